@@ -0,0 +1,50 @@
+package birintsev;
+
+import lombok.Value;
+
+/**
+ * Limits applied by {@link ShoppingCart} to added items.
+ * Cart storage and formatted column widths are sized from them.
+ */
+@Value
+public class CartLimits {
+
+    /** Limits of a regular retail cart */
+    public static final CartLimits DEFAULT = new CartLimits(99, 32, 0.01, 1000.00, 1000);
+
+    /** Max number of lines in cart */
+    int maxItems;
+
+    /** Max item title length */
+    int maxTitleLength;
+
+    /** Min item price, inclusive */
+    double minPrice;
+
+    /** Max item price, exclusive */
+    double maxPrice;
+
+    /** Max item quantity, inclusive */
+    int maxQuantity;
+
+    /**
+     * Creates limits policy.
+     *
+     * @throws IllegalArgumentException if some value is wrong
+     */
+    public CartLimits(int maxItems, int maxTitleLength, double minPrice, double maxPrice, int maxQuantity) {
+        if (maxItems <= 0)
+            throw new IllegalArgumentException("Illegal max items");
+        if (maxTitleLength <= 0)
+            throw new IllegalArgumentException("Illegal max title length");
+        if (!(minPrice > 0) || !(maxPrice > minPrice) || Double.isInfinite(maxPrice))
+            throw new IllegalArgumentException("Illegal price range");
+        if (maxQuantity <= 0)
+            throw new IllegalArgumentException("Illegal max quantity");
+        this.maxItems = maxItems;
+        this.maxTitleLength = maxTitleLength;
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+        this.maxQuantity = maxQuantity;
+    }
+}
@@ -0,0 +1,58 @@
+package birintsev;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+
+/**
+ * Append-only list, storing elements in fixed size segments.
+ * Adding an element never copies already stored elements,
+ * only the small segment directory grows.
+ */
+class SegmentedList<E> extends AbstractList<E> {
+
+    /** Segment size is 1 << SEGMENT_SHIFT elements */
+    private static final int SEGMENT_SHIFT = 8;
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    /** Segment directory */
+    private Object[][] segments;
+
+    private int size;
+
+    /**
+     * Creates list with segment directory sized for given expected capacity.
+     * The list still grows, if more elements are added.
+     */
+    SegmentedList(int capacity) {
+        if (capacity < 0)
+            throw new IllegalArgumentException("Illegal capacity: " + capacity);
+        segments = new Object[Math.max(1, (int) (((long) capacity + SEGMENT_SIZE - 1) >>> SEGMENT_SHIFT))][];
+    }
+
+    @Override
+    public boolean add(E element) {
+        int segment = size >>> SEGMENT_SHIFT;
+        if (segment == segments.length)
+            segments = Arrays.copyOf(segments, segments.length * 2);
+        if (segments[segment] == null)
+            segments[segment] = new Object[SEGMENT_SIZE];
+        segments[segment][size & SEGMENT_MASK] = element;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        return (E) segments[index >>> SEGMENT_SHIFT][index & SEGMENT_MASK];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
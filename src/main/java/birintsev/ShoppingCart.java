@@ -1,5 +1,7 @@
 package birintsev;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.text.NumberFormat;
@@ -11,8 +13,56 @@ import java.util.List;
 */
 public class ShoppingCart{
 
+    /** Carts up to this number of lines are backed by preallocated array */
+    private static final int SMALL_CART_MAX_ITEMS = 99;
+
+    /** Widths of formatted columns at default limits */
+    private static final int NUMBER_WIDTH = 2;
+    private static final int TITLE_WIDTH = 20;
+    private static final int PRICE_WIDTH = 7;
+    private static final int QUANTITY_WIDTH = 4;
+    private static final int DISCOUNT_WIDTH = 8;
+    private static final int TOTAL_WIDTH = 10;
+
+    private static final String HEADER = " # Item Price Quan. Discount Total\n";
+    private static final String SEPARATOR = "---------------------------------------------------------\n";
+
+    /** Limits applied to added items */
+    private final CartLimits limits;
+
     /** Container for added items */
-    private final List<Item> items = new ArrayList<>();
+    private final List<Item> items;
+
+    /** Widths of formatted columns, sized from limits */
+    private final int numberWidth;
+    private final int priceWidth;
+    private final int quantityWidth;
+    private final int totalWidth;
+
+    /**
+     * Creates cart with default limits.
+     */
+    public ShoppingCart(){
+        this(CartLimits.DEFAULT);
+    }
+
+    /**
+     * Creates cart with given limits.
+     * Small carts are backed by preallocated array,
+     * big ones by segmented list, which does not copy items while growing.
+     */
+    public ShoppingCart(CartLimits limits){
+        if (limits == null)
+            throw new IllegalArgumentException("Illegal limits");
+        this.limits = limits;
+        this.items = limits.getMaxItems() <= SMALL_CART_MAX_ITEMS
+            ? new ArrayList<>(limits.getMaxItems())
+            : new SegmentedList<>(limits.getMaxItems());
+        this.numberWidth = Math.max(NUMBER_WIDTH, String.valueOf(limits.getMaxItems()).length());
+        this.priceWidth = Math.max(PRICE_WIDTH, moneyWidth(new BigDecimal(limits.getMaxPrice())));
+        this.quantityWidth = Math.max(QUANTITY_WIDTH, String.valueOf(limits.getMaxQuantity()).length());
+        this.totalWidth = Math.max(TOTAL_WIDTH, moneyWidth(maxItemTotal()));
+    }
 
     /**
      * Tests all class methods.
@@ -30,22 +80,22 @@ public class ShoppingCart{
     /**
      * Adds new item.
      *
-     * @param title item title 1 to 32 symbols
-     * @param price item price in cents, > 0, < 1000
-     * @param quantity item quantity, from 1 to 1000
+     * @param title item title 1 to limits max title length symbols (32 by default)
+     * @param price item price, >= limits min price, < limits max price (0.01 to 1000 by default)
+     * @param quantity item quantity, from 1 to limits max quantity (1000 by default)
      * @param type item type, on enum Item.Type
      *
-     * @throws IndexOutOfBoundsException if total items added over 99
+     * @throws IndexOutOfBoundsException if total items added over limits max items (99 by default)
      * @throws IllegalArgumentException if some value is wrong
      */
     public void addItem(String title, double price, int quantity, Item.Type type){
-        if (title == null || title.length() == 0 || title.length() > 32)
+        if (title == null || title.length() == 0 || title.length() > limits.getMaxTitleLength())
                 throw new IllegalArgumentException("Illegal title");
-        if (price < 0.01 || price >= 1000.00)
+        if (price < limits.getMinPrice() || price >= limits.getMaxPrice())
                 throw new IllegalArgumentException("Illegal price");
-        if (quantity <= 0 || quantity > 1000)
+        if (quantity <= 0 || quantity > limits.getMaxQuantity())
                 throw new IllegalArgumentException("Illegal quantity");
-        if (items.size() == 99)
+        if (items.size() == limits.getMaxItems())
             throw new IndexOutOfBoundsException("No more space in cart");
         items.add(new Item(title, price, quantity, type));
     }
@@ -66,45 +116,63 @@ public class ShoppingCart{
      *
      * Item title is trimmed to 20 chars adding '...'
      *
+     * Number, price, quantity and total columns are 2, 7, 4 and 10 chars wide
+     * at default limits, and are widened to fit max items, max price, max quantity
+     * and their product of bigger limits, so that all lines stay aligned.
+     * A value, rounded up to its limit, may take one more char.
+     *
      * if no items in cart returns "No items." string.
      */
      public String toString(){
-         StringBuffer sb = new StringBuffer();
          if (items.size() == 0)
              return "No items.";
+         StringBuilder sb = new StringBuilder(renderCapacity());
          double total = 0.00;
-         sb.append(" # Item Price Quan. Discount Total\n");
-         sb.append("---------------------------------------------------------\n");
+         sb.append(HEADER);
+         sb.append(SEPARATOR);
          for (int i = 0; i < items.size(); i++) {
              Item item = (Item) items.get(i);
              int discount = calculateDiscount(item);
              double itemTotal = item.getPrice() * item.getQuantity() * (100.00 - discount) / 100.00;
-             appendPaddedRight(sb, String.valueOf(i + 1), 2);
+             appendPaddedRight(sb, String.valueOf(i + 1), numberWidth);
              sb.append(" ");
-             appendPaddedLeft(sb, item.getTitle(), 20);
+             appendPaddedLeft(sb, item.getTitle(), TITLE_WIDTH);
              sb.append(" ");
-             appendPaddedRight(sb, MONEY.format(item.getPrice()), 7);
+             appendPaddedRight(sb, MONEY.format(item.getPrice()), priceWidth);
              sb.append(" ");
-             appendPaddedRight(sb, String.valueOf(item.getQuantity()), 4);
+             appendPaddedRight(sb, String.valueOf(item.getQuantity()), quantityWidth);
              sb.append(" ");
              if (discount == 0)
                  sb.append(" -");
              else {
-                 appendPaddedRight(sb, String.valueOf(discount), 7);
+                 appendPaddedRight(sb, String.valueOf(discount), DISCOUNT_WIDTH - 1);
                  sb.append("%");
              }
              sb.append(" ");
-             appendPaddedRight(sb, MONEY.format(itemTotal), 10);
+             appendPaddedRight(sb, MONEY.format(itemTotal), totalWidth);
              sb.append("\n");
              total += itemTotal;
          }
-         sb.append("---------------------------------------------------------\n");
-         appendPaddedRight(sb, String.valueOf(items.size()), 2);
+         sb.append(SEPARATOR);
+         appendPaddedRight(sb, String.valueOf(items.size()), numberWidth);
          sb.append(" ");
-         appendPaddedRight(sb, MONEY.format(total), 10);
+         appendPaddedRight(sb, MONEY.format(total), totalWidth);
          return sb.toString();
      }
 
+    /**
+     * Upper bound of toString() length for current items,
+     * so its builder is never reallocated.
+     */
+    int renderCapacity(){
+        // each money value may take one more char, when rounded up to its limit
+        int lineWidth = numberWidth + 1 + TITLE_WIDTH + 1 + priceWidth + 1 + 1
+            + quantityWidth + 1 + DISCOUNT_WIDTH + 1 + totalWidth + 1 + 1;
+        BigDecimal maxTotal = maxItemTotal().multiply(BigDecimal.valueOf(items.size()));
+        int footerWidth = numberWidth + 1 + Math.max(totalWidth, moneyWidth(maxTotal)) + 1;
+        return HEADER.length() + 2 * SEPARATOR.length() + items.size() * lineWidth + footerWidth;
+    }
+
     // --- private section -----------------------------------------------------
     private static final NumberFormat MONEY;
         static {
@@ -114,20 +182,35 @@ public class ShoppingCart{
         }
     
     /**
-     * Adds to string buffer given string, padded with spaces.
+     * Max item total, before discount.
+     */
+    private BigDecimal maxItemTotal(){
+        return new BigDecimal(limits.getMaxPrice()).multiply(BigDecimal.valueOf(limits.getMaxQuantity()));
+    }
+
+    /**
+     * Width of money values, less than given exclusive max, formatted with MONEY.
+     */
+    private static int moneyWidth(BigDecimal max){
+        String integerPart = max.setScale(0, RoundingMode.CEILING).subtract(BigDecimal.ONE).max(BigDecimal.ZERO).toPlainString();
+        return "$".length() + integerPart.length() + ".00".length();
+    }
+
+    /**
+     * Adds to string builder given string, padded with spaces.
      * Returns " str".length() == width
      */
-    private static void appendPaddedRight(StringBuffer sb, String str, int width){
+    private static void appendPaddedRight(StringBuilder sb, String str, int width){
         for (int i = str.length(); i < width; i++)
             sb.append(" ");
         sb.append(str);
     }
 
     /**
-     * Adds string to buffer, wills spaces to width.
+     * Adds string to builder, wills spaces to width.
      * If string is longer than width it is trimmed and ends with '...'
      */
-    private static void appendPaddedLeft(StringBuffer sb, String str, int width){
+    private static void appendPaddedLeft(StringBuilder sb, String str, int width){
         if (str.length() > width) {
             sb.append(str.substring(0, width-3));
             sb.append("...");
@@ -1,88 +1,157 @@
 package birintsev;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 import java.util.stream.IntStream;
 import static birintsev.TestConstants.CART_CAPACITY_VALID_MAX;
+import static birintsev.TestConstants.ITEMS_BUY_TO_GET_BULK_DISCOUNT;
 import static birintsev.TestConstants.ITEM_PRICE_VALID_MAX;
 import static birintsev.TestConstants.ITEM_QUANTITY_VALID_MAX;
 import static birintsev.TestConstants.ITEM_QUANTITY_VALID_MIN;
 import static birintsev.TestConstants.ITEM_TITLE_LENGTH_VALID_MAX;
 import static birintsev.TestConstants.TOLERANCE;
 import static birintsev.TestConstants.ITEM_PRICE_VALID_MIN;
+import static birintsev.TestConstants.TYPE_DISCOUNT_BULK_DISCOUNT;
+import static birintsev.TestConstants.TYPE_DISCOUNT_BUY_TO_GET_TYPE_DISCOUNT_BULK_DISCOUNT;
+import static birintsev.TestConstants.TYPE_DISCOUNT_DISCOUNT;
+import static birintsev.TestConstants.TYPE_DISCOUNT_MAX_DISCOUNT;
 
 public class RandomTestDataUtils {
 
-    static final Random RANDOM = new Random();
+    /**
+     * Seed of all random test data, may be overridden with -Dbirintsev.test.seed=N
+     * to reproduce a failure. Tests create their own {@link #seededRandom()},
+     * so a single test gets the same data whether it runs alone or with the others.
+     */
+    static final long SEED = Long.getLong("birintsev.test.seed", 20211115L);
+
+    /** Assertion message, reporting the seed to reproduce a failure with */
+    static final String SEED_MESSAGE = "Random test data seed: " + SEED;
+
+    private static final String TITLE_ALPHABET = "abcdefghijklmnopqrstuvwxyz ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
 
     private RandomTestDataUtils() {
         // This class is not expected to be instantiated.
     }
 
-    static Item randomValidItem() {
-        return new Item(randomValidItemTitle(), randomValidItemPrice(), randomValidItemsQuantity(), randomItemType());
+    /**
+     * Creates a new random, producing the same sequence for the same {@link #SEED}.
+     */
+    static Random seededRandom() {
+        return new Random(SEED);
+    }
+
+    static Item randomValidItem(Random random) {
+        return new Item(
+            randomValidItemTitle(random),
+            randomValidItemPrice(random),
+            randomValidItemsQuantity(random),
+            randomItemType(random)
+        );
+    }
+
+    static List<Item> randomValidItems(Random random, int count) {
+        List<Item> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++)
+            items.add(randomValidItem(random));
+        return items;
     }
 
     /**
      * Creates a random string of specified length
      */
-    static String randomStringOfLength(int length) {
+    static String randomStringOfLength(Random random, int length) {
         StringBuilder stringBuilder = new StringBuilder(length);
-        IntStream.range(0, length).forEach(integer -> stringBuilder.append((char) integer));
+        IntStream.range(0, length)
+            .forEach(i -> stringBuilder.append(TITLE_ALPHABET.charAt(random.nextInt(TITLE_ALPHABET.length()))));
         return stringBuilder.toString();
     }
 
-    static Item.Type randomItemType() {
-        return Item.Type.values()[RANDOM.nextInt(Item.Type.values().length)];
+    static Item.Type randomItemType(Random random) {
+        return Item.Type.values()[random.nextInt(Item.Type.values().length)];
+    }
+
+    static String randomInvalidItemTitleLong(Random random) {
+        return randomStringOfLength(random, ITEM_TITLE_LENGTH_VALID_MAX + 1);
     }
 
-    static String randomInvalidItemTitleLong() {
-        return randomStringOfLength(ITEM_TITLE_LENGTH_VALID_MAX + 1);
+    static int randomInt(Random random, int fromInclusive, int toExclusive) {
+        return random.ints(fromInclusive, toExclusive).findFirst().getAsInt();
     }
 
-    static int randomInt(int fromInclusive, int toExclusive) {
-        return RANDOM.ints(fromInclusive, toExclusive).findFirst().getAsInt();
+    static double randomDouble(Random random, double fromInclusive, double toExclusive) {
+        return random.doubles(fromInclusive, toExclusive).findFirst().getAsDouble();
     }
 
-    static double randomDouble(double fromInclusive, double toExclusive) {
-        return RANDOM.doubles(fromInclusive, toExclusive).findFirst().getAsDouble();
+    static String randomValidItemTitle(Random random) {
+        return randomStringOfLength(random, randomInt(random, 1, ITEM_TITLE_LENGTH_VALID_MAX + 1));
     }
 
-    static String randomValidItemTitle() {
-        return randomStringOfLength(randomInt(1, ITEM_TITLE_LENGTH_VALID_MAX + 1));
+    static double randomValidItemPrice(Random random) {
+        return randomDouble(random, ITEM_PRICE_VALID_MIN, ITEM_PRICE_VALID_MAX);
     }
 
-    static double randomValidItemPrice() {
-        return randomDouble(ITEM_PRICE_VALID_MIN, ITEM_PRICE_VALID_MAX);
+    static int randomValidItemsQuantity(Random random) {
+        return randomInt(random, 1, ITEM_QUANTITY_VALID_MAX + 1);
     }
 
-    static int randomValidItemsQuantity() {
-        return randomInt(1, ITEM_QUANTITY_VALID_MAX + 1);
+    /**
+     * Picks one of {@link #quantityTierBoundaries()}.
+     */
+    static int randomQuantityTierBoundary(Random random) {
+        int[] boundaries = quantityTierBoundaries();
+        return boundaries[random.nextInt(boundaries.length)];
     }
 
-    static double randomInvalidNegativeItemPrice() {
-        double randomPrice = RANDOM.nextDouble() * RANDOM.nextInt();
+    /**
+     * Valid quantities at which some discount tier starts, with their neighbours:
+     * second item discount, each discount type tier until its max,
+     * each bulk tier, including where the max total discount starts to apply.
+     */
+    static int[] quantityTierBoundaries() {
+        int discountTypeTiers = (TYPE_DISCOUNT_MAX_DISCOUNT - TYPE_DISCOUNT_DISCOUNT) / TYPE_DISCOUNT_BULK_DISCOUNT;
+        IntStream tiers = IntStream.concat(
+            IntStream.of(ITEM_QUANTITY_VALID_MIN + 1),
+            IntStream.concat(
+                IntStream.rangeClosed(1, discountTypeTiers)
+                    .map(tier -> tier * TYPE_DISCOUNT_BUY_TO_GET_TYPE_DISCOUNT_BULK_DISCOUNT),
+                IntStream.rangeClosed(1, ITEM_QUANTITY_VALID_MAX / ITEMS_BUY_TO_GET_BULK_DISCOUNT)
+                    .map(tier -> tier * ITEMS_BUY_TO_GET_BULK_DISCOUNT)
+            )
+        );
+        return tiers
+            .flatMap(quantity -> IntStream.of(quantity - 1, quantity, quantity + 1))
+            .filter(quantity -> quantity >= ITEM_QUANTITY_VALID_MIN && quantity <= ITEM_QUANTITY_VALID_MAX)
+            .distinct()
+            .sorted()
+            .toArray();
+    }
+
+    static double randomInvalidNegativeItemPrice(Random random) {
+        double randomPrice = random.nextDouble() * random.nextInt();
         return randomPrice < 0 ? randomPrice : -1 * randomPrice;
     }
 
-    static double randomInvalidItemPriceLarge() {
-        return RANDOM.doubles(ITEM_PRICE_VALID_MAX + TOLERANCE, Double.MAX_VALUE)
+    static double randomInvalidItemPriceLarge(Random random) {
+        return random.doubles(ITEM_PRICE_VALID_MAX + TOLERANCE, Double.MAX_VALUE)
             .findFirst()
             .getAsDouble();
     }
 
-    static int randomInvalidItemsQuantityMin() {
-        return ITEM_QUANTITY_VALID_MIN - Math.max(1, Math.abs(RANDOM.nextInt()));
+    static int randomInvalidItemsQuantityMin(Random random) {
+        return ITEM_QUANTITY_VALID_MIN - Math.max(1, Math.abs(random.nextInt()));
     }
 
-    static int randomInvalidItemsQuantityMax() {
-        return ITEM_QUANTITY_VALID_MAX + Math.max(1, Math.abs(RANDOM.nextInt()));
+    static int randomInvalidItemsQuantityMax(Random random) {
+        return ITEM_QUANTITY_VALID_MAX + Math.max(1, Math.abs(random.nextInt()));
     }
 
-    static int randomValidCartCapacity() {
-        return randomInt(1, CART_CAPACITY_VALID_MAX + 1);
+    static int randomValidCartCapacity(Random random) {
+        return randomInt(random, 1, CART_CAPACITY_VALID_MAX + 1);
     }
 
-    static int randomGreaterThanMaxCartCapacity() {
-        return randomInt(CART_CAPACITY_VALID_MAX + 1, Integer.MAX_VALUE);
+    static int randomGreaterThanMaxCartCapacity(Random random) {
+        return randomInt(random, CART_CAPACITY_VALID_MAX + 1, Integer.MAX_VALUE);
     }
 }
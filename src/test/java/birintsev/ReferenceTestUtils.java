@@ -0,0 +1,106 @@
+package birintsev;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.util.List;
+import static birintsev.TestConstants.BULK_DISCOUNT;
+import static birintsev.TestConstants.ITEMS_BUY_TO_GET_BULK_DISCOUNT;
+import static birintsev.TestConstants.MAX_TOTAL_DISCOUNT;
+import static birintsev.TestConstants.TYPE_DISCOUNT_BULK_DISCOUNT;
+import static birintsev.TestConstants.TYPE_DISCOUNT_BUY_TO_GET_TYPE_DISCOUNT_BULK_DISCOUNT;
+import static birintsev.TestConstants.TYPE_DISCOUNT_DISCOUNT;
+import static birintsev.TestConstants.TYPE_DISCOUNT_MAX_DISCOUNT;
+import static birintsev.TestConstants.TYPE_REGULAR_DISCOUNT;
+import static birintsev.TestConstants.TYPE_SALE_DISCOUNT;
+import static birintsev.TestConstants.TYPE_SECOND_DISCOUNT;
+
+/**
+ * Straightforward implementations of documented {@link ShoppingCart} behaviour,
+ * used as oracles for the real ones.
+ */
+class ReferenceTestUtils {
+
+    private static final NumberFormat REFERENCE_MONEY;
+        static {
+            DecimalFormatSymbols symbols = new DecimalFormatSymbols();
+            symbols.setDecimalSeparator('.');
+            REFERENCE_MONEY = new DecimalFormat("$#.00", symbols);
+        }
+
+    private ReferenceTestUtils() {
+        // This class is not expected to be instantiated.
+    }
+
+    /**
+     * Discount, as documented in {@link ShoppingCart#calculateDiscount(Item)}.
+     */
+    static int referenceDiscount(Item item) {
+        int typeDiscount;
+        switch (item.getType()) {
+            case SECOND:
+                typeDiscount = item.getQuantity() > 1 ? TYPE_SECOND_DISCOUNT : TYPE_REGULAR_DISCOUNT;
+                break;
+            case DISCOUNT:
+                typeDiscount = Math.min(
+                    TYPE_DISCOUNT_DISCOUNT
+                        + (item.getQuantity() / TYPE_DISCOUNT_BUY_TO_GET_TYPE_DISCOUNT_BULK_DISCOUNT) * TYPE_DISCOUNT_BULK_DISCOUNT,
+                    TYPE_DISCOUNT_MAX_DISCOUNT
+                );
+                break;
+            case SALE:
+                typeDiscount = TYPE_SALE_DISCOUNT;
+                break;
+            default:
+                typeDiscount = TYPE_REGULAR_DISCOUNT;
+        }
+        return Math.min(
+            typeDiscount + (item.getQuantity() / ITEMS_BUY_TO_GET_BULK_DISCOUNT) * BULK_DISCOUNT,
+            MAX_TOTAL_DISCOUNT
+        );
+    }
+
+    /**
+     * Rendering of non-empty cart with given limits, as documented in {@link ShoppingCart#toString()}.
+     */
+    static String referenceToString(List<Item> items, CartLimits limits) {
+        int numberWidth = Math.max(2, String.valueOf(limits.getMaxItems()).length());
+        int priceWidth = Math.max(7, referenceMoneyWidth(limits.getMaxPrice()));
+        int quantityWidth = Math.max(4, String.valueOf(limits.getMaxQuantity()).length());
+        int totalWidth = Math.max(10, referenceMoneyWidth(limits.getMaxPrice() * limits.getMaxQuantity()));
+        StringBuffer sb = new StringBuffer();
+        double total = 0.00;
+        sb.append(" # Item Price Quan. Discount Total\n");
+        sb.append("---------------------------------------------------------\n");
+        for (int i = 0; i < items.size(); i++) {
+            Item item = items.get(i);
+            int discount = referenceDiscount(item);
+            double itemTotal = item.getPrice() * item.getQuantity() * (100.00 - discount) / 100.00;
+            sb.append(padLeft(String.valueOf(i + 1), numberWidth)).append(" ");
+            String title = item.getTitle().length() > 20
+                ? item.getTitle().substring(0, 17) + "..."
+                : String.format("%-20s", item.getTitle());
+            sb.append(title).append(" ");
+            sb.append(padLeft(REFERENCE_MONEY.format(item.getPrice()), priceWidth)).append(" ");
+            sb.append(padLeft(String.valueOf(item.getQuantity()), quantityWidth)).append(" ");
+            sb.append(discount == 0 ? " -" : padLeft(String.valueOf(discount), 7) + "%").append(" ");
+            sb.append(padLeft(REFERENCE_MONEY.format(itemTotal), totalWidth)).append("\n");
+            total += itemTotal;
+        }
+        sb.append("---------------------------------------------------------\n");
+        sb.append(padLeft(String.valueOf(items.size()), numberWidth)).append(" ");
+        sb.append(padLeft(REFERENCE_MONEY.format(total), totalWidth));
+        return sb.toString();
+    }
+
+    /**
+     * Width of "$" + integer part + ".00" of the greatest whole value less than given max.
+     */
+    private static int referenceMoneyWidth(double max) {
+        return ("$" + Math.max(0, (long) Math.ceil(max) - 1) + ".00").length();
+    }
+
+    private static String padLeft(String str, int width) {
+        return str.length() >= width ? str : String.format("%" + width + "s", str);
+    }
+}
@@ -0,0 +1,72 @@
+package birintsev;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SegmentedListTest {
+
+    private static final int SEGMENT_SIZE = 256;
+
+    @Test
+    void get_acrossSegmentBoundaries() {
+        SegmentedList<Integer> list = filledList(SEGMENT_SIZE, 3 * SEGMENT_SIZE + 1);
+
+        for (int index : new int[] {0, SEGMENT_SIZE - 1, SEGMENT_SIZE, SEGMENT_SIZE + 1, 2 * SEGMENT_SIZE, 3 * SEGMENT_SIZE})
+            assertWithMessage("Element at index %s", index)
+                .that(list.get(index))
+                .isEqualTo(index);
+    }
+
+    @Test
+    void add_growsBeyondCapacity() {
+        SegmentedList<Integer> list = filledList(1, 4 * SEGMENT_SIZE + 1);
+
+        assertThat(list).hasSize(4 * SEGMENT_SIZE + 1);
+        assertThat(list.get(4 * SEGMENT_SIZE)).isEqualTo(4 * SEGMENT_SIZE);
+    }
+
+    @Test
+    void get_negativeIndexOutOfBoundsException() {
+        SegmentedList<Integer> list = filledList(SEGMENT_SIZE, SEGMENT_SIZE);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+    }
+
+    @Test
+    void get_sizeIndexOutOfBoundsException() {
+        SegmentedList<Integer> list = filledList(SEGMENT_SIZE, SEGMENT_SIZE);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(SEGMENT_SIZE));
+    }
+
+    @Test
+    void get_emptyListIndexOutOfBoundsException() {
+        SegmentedList<Integer> list = new SegmentedList<>(0);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+    }
+
+    @Test
+    void iterator_returnsElementsInInsertionOrder() {
+        int size = 2 * SEGMENT_SIZE + 7;
+        SegmentedList<Integer> list = filledList(size, size);
+
+        List<Integer> iterated = new ArrayList<>();
+        list.forEach(iterated::add);
+
+        assertThat(iterated).containsExactlyElementsIn(IntStream.range(0, size).boxed().toArray()).inOrder();
+    }
+
+    @Test
+    void segmentedList_negativeCapacityIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SegmentedList<>(-1));
+    }
+
+    private static SegmentedList<Integer> filledList(int capacity, int size) {
+        SegmentedList<Integer> list = new SegmentedList<>(capacity);
+        IntStream.range(0, size).forEach(list::add);
+        return list;
+    }
+}
@@ -1,7 +1,9 @@
 package birintsev;
 
 import org.junit.jupiter.api.Test;
+import java.util.Random;
 import java.util.stream.IntStream;
+import static birintsev.RandomTestDataUtils.SEED_MESSAGE;
 import static birintsev.RandomTestDataUtils.randomGreaterThanMaxCartCapacity;
 import static birintsev.RandomTestDataUtils.randomInvalidItemPriceLarge;
 import static birintsev.RandomTestDataUtils.randomInvalidItemTitleLong;
@@ -11,85 +13,98 @@ import static birintsev.RandomTestDataUtils.randomInvalidNegativeItemPrice;
 import static birintsev.RandomTestDataUtils.randomStringOfLength;
 import static birintsev.RandomTestDataUtils.randomValidCartCapacity;
 import static birintsev.RandomTestDataUtils.randomValidItem;
+import static birintsev.RandomTestDataUtils.seededRandom;
 import static birintsev.TestConstants.CART_CAPACITY_VALID_MAX;
 import static birintsev.TestConstants.ITEM_PRICE_INVALID_MIN;
+import static birintsev.TestConstants.ITEM_PRICE_VALID_MIN;
+import static birintsev.TestConstants.ITEM_QUANTITY_VALID_MAX;
+import static birintsev.TestConstants.ITEM_TITLE_LENGTH_VALID_MAX;
+import static birintsev.TestConstants.LARGE_CART_LIMITS;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class ShoppingCartAddItemTest {
 
+    private static final double CUSTOM_PRICE_MIN = 1.00;
+
+    private static final double CUSTOM_PRICE_MAX = 100.00;
+
+    private static final int CUSTOM_QUANTITY_MAX = 10;
+
+    private final Random random = seededRandom();
+
     @Test
     void addItem_emptyTitleIllegalArgumentException() {
-        Item item = randomValidItem();
-        item.setTitle(randomStringOfLength(0));
+        Item item = randomValidItem(random);
+        item.setTitle(randomStringOfLength(random, 0));
         addItemToEmptyCartAssertThrowsIllegalArgumentException(item);
     }
 
     @Test
     void addItem_longTitleIllegalArgumentException() {
-        Item item = randomValidItem();
-        item.setTitle(randomInvalidItemTitleLong());
+        Item item = randomValidItem(random);
+        item.setTitle(randomInvalidItemTitleLong(random));
         addItemToEmptyCartAssertThrowsIllegalArgumentException(item);
     }
 
     @Test
     void addItem_negativePriceIllegalArgumentException() {
-        Item item = randomValidItem();
-        item.setPrice(randomInvalidNegativeItemPrice());
+        Item item = randomValidItem(random);
+        item.setPrice(randomInvalidNegativeItemPrice(random));
         addItemToEmptyCartAssertThrowsIllegalArgumentException(item);
     }
 
     @Test
     void addItem_largePriceIllegalArgumentException() {
-        Item item = randomValidItem();
-        item.setPrice(randomInvalidItemPriceLarge());
+        Item item = randomValidItem(random);
+        item.setPrice(randomInvalidItemPriceLarge(random));
         addItemToEmptyCartAssertThrowsIllegalArgumentException(item);
     }
 
     @Test
     void addItem_itemPriceIllegalArgumentException() {
-        Item item = randomValidItem();
-        item.setPrice(randomInvalidItemPriceLarge());
+        Item item = randomValidItem(random);
+        item.setPrice(randomInvalidItemPriceLarge(random));
         addItemToEmptyCartAssertThrowsIllegalArgumentException(item);
     }
 
     @Test
     void addItem_itemPriceZeroIllegalArgumentException() {
-        Item item = randomValidItem();
+        Item item = randomValidItem(random);
         item.setPrice(0);
         addItemToEmptyCartAssertThrowsIllegalArgumentException(item);
     }
 
     @Test
     void addItem_itemPriceMinInvalidValueIllegalArgumentException() {
-        Item item = randomValidItem();
+        Item item = randomValidItem(random);
         item.setPrice(ITEM_PRICE_INVALID_MIN);
         addItemToEmptyCartAssertThrowsIllegalArgumentException(item);
     }
 
     @Test
     void addItem_itemQuantityMinThanInvalidValueIllegalArgumentException() {
-        Item item = randomValidItem();
-        item.setQuantity(randomInvalidItemsQuantityMin());
+        Item item = randomValidItem(random);
+        item.setQuantity(randomInvalidItemsQuantityMin(random));
         addItemToEmptyCartAssertThrowsIllegalArgumentException(item);
     }
 
     @Test
     void addItem_itemQuantityMaxThanInvalidValueIllegalArgumentException() {
-        Item item = randomValidItem();
-        item.setQuantity(randomInvalidItemsQuantityMax());
+        Item item = randomValidItem(random);
+        item.setQuantity(randomInvalidItemsQuantityMax(random));
         addItemToEmptyCartAssertThrowsIllegalArgumentException(item);
     }
 
     @Test
     void addItem_validItemToEmptyCart() {
-        addItemToCart(emptyCart(), randomValidItem());
+        addItemToCart(emptyCart(), randomValidItem(random));
     }
 
     @Test
     void cartCapacityTest() {
         ShoppingCart shoppingCart = emptyCart();
-        int cartCapacity = randomValidCartCapacity();
-        IntStream.range(0, randomValidCartCapacity()).forEach(i -> addItemToCart(shoppingCart, randomValidItem()));
+        int cartCapacity = randomValidCartCapacity(random);
+        IntStream.range(0, randomValidCartCapacity(random)).forEach(i -> addItemToCart(shoppingCart, randomValidItem(random)));
     }
 
     @Test
@@ -98,7 +113,8 @@ class ShoppingCartAddItemTest {
         assertThrows(
             IndexOutOfBoundsException.class,
             () -> IntStream.range(0, CART_CAPACITY_VALID_MAX + 1)
-                .forEach(itemIndex -> addItemToCart(shoppingCart, randomValidItem()))
+                .forEach(itemIndex -> addItemToCart(shoppingCart, randomValidItem(random))),
+            SEED_MESSAGE
         );
     }
 
@@ -107,15 +123,158 @@ class ShoppingCartAddItemTest {
         ShoppingCart shoppingCart = emptyCart();
         assertThrows(
             IndexOutOfBoundsException.class,
-            () -> IntStream.range(0, randomGreaterThanMaxCartCapacity())
-                .forEach(itemIndex -> addItemToCart(shoppingCart, randomValidItem()))
+            () -> IntStream.range(0, randomGreaterThanMaxCartCapacity(random))
+                .forEach(itemIndex -> addItemToCart(shoppingCart, randomValidItem(random))),
+            SEED_MESSAGE
+        );
+    }
+
+    @Test
+    void cartCapacityCustomLimits() {
+        ShoppingCart shoppingCart = new ShoppingCart(LARGE_CART_LIMITS);
+        IntStream.range(0, LARGE_CART_LIMITS.getMaxItems())
+            .forEach(i -> addItemToCart(shoppingCart, randomValidItem(random)));
+    }
+
+    @Test
+    void indexOutOfBoundsExceptionOnCustomMaxCapacity() {
+        ShoppingCart shoppingCart = new ShoppingCart(LARGE_CART_LIMITS);
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> IntStream.range(0, LARGE_CART_LIMITS.getMaxItems() + 1)
+                .forEach(itemIndex -> addItemToCart(shoppingCart, randomValidItem(random))),
+            SEED_MESSAGE
         );
     }
 
+    @Test
+    void addItem_customLimitsLongTitleIllegalArgumentException() {
+        CartLimits limits = new CartLimits(
+            CART_CAPACITY_VALID_MAX,
+            ITEM_TITLE_LENGTH_VALID_MAX / 2,
+            ITEM_PRICE_VALID_MIN,
+            ITEM_PRICE_INVALID_MIN,
+            ITEM_QUANTITY_VALID_MAX
+        );
+        Item item = randomValidItem(random);
+        item.setTitle(randomStringOfLength(random, limits.getMaxTitleLength() + 1));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> addItemToCart(new ShoppingCart(limits), item),
+            SEED_MESSAGE
+        );
+    }
+
+    @Test
+    void addItem_customLimitsLargePriceIllegalArgumentException() {
+        CartLimits limits = limits(ITEM_PRICE_VALID_MIN, CUSTOM_PRICE_MAX, ITEM_QUANTITY_VALID_MAX);
+        Item item = randomValidItem(random);
+        item.setPrice(CUSTOM_PRICE_MAX);
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> addItemToCart(new ShoppingCart(limits), item),
+            SEED_MESSAGE
+        );
+    }
+
+    @Test
+    void addItem_customLimitsSmallPriceIllegalArgumentException() {
+        CartLimits limits = limits(CUSTOM_PRICE_MIN, ITEM_PRICE_INVALID_MIN, ITEM_QUANTITY_VALID_MAX);
+        Item item = randomValidItem(random);
+        item.setPrice(CUSTOM_PRICE_MIN / 2);
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> addItemToCart(new ShoppingCart(limits), item),
+            SEED_MESSAGE
+        );
+    }
+
+    @Test
+    void addItem_customLimitsLargeQuantityIllegalArgumentException() {
+        CartLimits limits = limits(ITEM_PRICE_VALID_MIN, ITEM_PRICE_INVALID_MIN, CUSTOM_QUANTITY_MAX);
+        Item item = randomValidItem(random);
+        item.setQuantity(CUSTOM_QUANTITY_MAX + 1);
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> addItemToCart(new ShoppingCart(limits), item),
+            SEED_MESSAGE
+        );
+    }
+
+    @Test
+    void addItem_customLimitsBoundaryValues() {
+        CartLimits limits = limits(CUSTOM_PRICE_MIN, CUSTOM_PRICE_MAX, CUSTOM_QUANTITY_MAX);
+        ShoppingCart shoppingCart = new ShoppingCart(limits);
+        shoppingCart.addItem(randomStringOfLength(random, 1), CUSTOM_PRICE_MIN, CUSTOM_QUANTITY_MAX, Item.Type.REGULAR);
+        shoppingCart.addItem(randomStringOfLength(random, 1), Math.nextDown(CUSTOM_PRICE_MAX), 1, Item.Type.REGULAR);
+    }
+
+    @Test
+    void shoppingCart_nullLimitsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ShoppingCart(null), SEED_MESSAGE);
+    }
+
+    @Test
+    void cartLimits_illegalMaxItemsIllegalArgumentException() {
+        cartLimitsAssertThrowsIllegalArgumentException(0, ITEM_TITLE_LENGTH_VALID_MAX, ITEM_PRICE_VALID_MIN, ITEM_PRICE_INVALID_MIN, ITEM_QUANTITY_VALID_MAX);
+        cartLimitsAssertThrowsIllegalArgumentException(-1, ITEM_TITLE_LENGTH_VALID_MAX, ITEM_PRICE_VALID_MIN, ITEM_PRICE_INVALID_MIN, ITEM_QUANTITY_VALID_MAX);
+    }
+
+    @Test
+    void cartLimits_illegalMaxTitleLengthIllegalArgumentException() {
+        cartLimitsAssertThrowsIllegalArgumentException(CART_CAPACITY_VALID_MAX, 0, ITEM_PRICE_VALID_MIN, ITEM_PRICE_INVALID_MIN, ITEM_QUANTITY_VALID_MAX);
+        cartLimitsAssertThrowsIllegalArgumentException(CART_CAPACITY_VALID_MAX, -1, ITEM_PRICE_VALID_MIN, ITEM_PRICE_INVALID_MIN, ITEM_QUANTITY_VALID_MAX);
+    }
+
+    @Test
+    void cartLimits_illegalMaxQuantityIllegalArgumentException() {
+        cartLimitsAssertThrowsIllegalArgumentException(CART_CAPACITY_VALID_MAX, ITEM_TITLE_LENGTH_VALID_MAX, ITEM_PRICE_VALID_MIN, ITEM_PRICE_INVALID_MIN, 0);
+        cartLimitsAssertThrowsIllegalArgumentException(CART_CAPACITY_VALID_MAX, ITEM_TITLE_LENGTH_VALID_MAX, ITEM_PRICE_VALID_MIN, ITEM_PRICE_INVALID_MIN, -1);
+    }
+
+    @Test
+    void cartLimits_illegalMinPriceIllegalArgumentException() {
+        cartLimitsAssertThrowsIllegalArgumentException(CART_CAPACITY_VALID_MAX, ITEM_TITLE_LENGTH_VALID_MAX, 0, ITEM_PRICE_INVALID_MIN, ITEM_QUANTITY_VALID_MAX);
+        cartLimitsAssertThrowsIllegalArgumentException(CART_CAPACITY_VALID_MAX, ITEM_TITLE_LENGTH_VALID_MAX, -ITEM_PRICE_VALID_MIN, ITEM_PRICE_INVALID_MIN, ITEM_QUANTITY_VALID_MAX);
+    }
+
+    @Test
+    void cartLimits_maxPriceNotGreaterThanMinPriceIllegalArgumentException() {
+        cartLimitsAssertThrowsIllegalArgumentException(CART_CAPACITY_VALID_MAX, ITEM_TITLE_LENGTH_VALID_MAX, CUSTOM_PRICE_MIN, CUSTOM_PRICE_MIN, ITEM_QUANTITY_VALID_MAX);
+        cartLimitsAssertThrowsIllegalArgumentException(CART_CAPACITY_VALID_MAX, ITEM_TITLE_LENGTH_VALID_MAX, CUSTOM_PRICE_MIN, CUSTOM_PRICE_MIN / 2, ITEM_QUANTITY_VALID_MAX);
+    }
+
+    @Test
+    void cartLimits_nonFinitePriceIllegalArgumentException() {
+        cartLimitsAssertThrowsIllegalArgumentException(CART_CAPACITY_VALID_MAX, ITEM_TITLE_LENGTH_VALID_MAX, Double.NaN, Double.NaN, ITEM_QUANTITY_VALID_MAX);
+        cartLimitsAssertThrowsIllegalArgumentException(CART_CAPACITY_VALID_MAX, ITEM_TITLE_LENGTH_VALID_MAX, Double.NaN, ITEM_PRICE_INVALID_MIN, ITEM_QUANTITY_VALID_MAX);
+        cartLimitsAssertThrowsIllegalArgumentException(CART_CAPACITY_VALID_MAX, ITEM_TITLE_LENGTH_VALID_MAX, ITEM_PRICE_VALID_MIN, Double.NaN, ITEM_QUANTITY_VALID_MAX);
+        cartLimitsAssertThrowsIllegalArgumentException(CART_CAPACITY_VALID_MAX, ITEM_TITLE_LENGTH_VALID_MAX, ITEM_PRICE_VALID_MIN, Double.POSITIVE_INFINITY, ITEM_QUANTITY_VALID_MAX);
+    }
+
+    private static void cartLimitsAssertThrowsIllegalArgumentException(
+        int maxItems,
+        int maxTitleLength,
+        double minPrice,
+        double maxPrice,
+        int maxQuantity
+    ) {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new CartLimits(maxItems, maxTitleLength, minPrice, maxPrice, maxQuantity),
+            SEED_MESSAGE
+        );
+    }
+
+    private static CartLimits limits(double minPrice, double maxPrice, int maxQuantity) {
+        return new CartLimits(CART_CAPACITY_VALID_MAX, ITEM_TITLE_LENGTH_VALID_MAX, minPrice, maxPrice, maxQuantity);
+    }
+
     private static void addItemToEmptyCartAssertThrowsIllegalArgumentException(Item item) {
         assertThrows(
             IllegalArgumentException.class,
-            () -> addItemToCart(emptyCart(), item)
+            () -> addItemToCart(emptyCart(), item),
+            SEED_MESSAGE
         );
     }
 
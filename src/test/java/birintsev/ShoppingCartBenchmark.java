@@ -0,0 +1,147 @@
+package birintsev;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Measures filling and rendering carts of 99, 1000 and 10000 lines.
+ * Not a unit test, run it with:
+ * java -cp target/classes:target/test-classes birintsev.ShoppingCartBenchmark [warmupRounds] [measuredRounds]
+ *
+ * Prints median time per line of addItem and toString, and bytes allocated by the worst
+ * single addItem, compared with adding the same items to a default-capacity ArrayList.
+ * Then prints bytes allocated by one toString per output char, next to output length
+ * and the presized builder capacity.
+ * Copying the storage or the builder while growing shows up as a spike in the allocation columns.
+ */
+public class ShoppingCartBenchmark {
+
+    private static final int[] CART_SIZES = {99, 1_000, 10_000};
+
+    private static final String[] TITLES = new String[CART_SIZES[CART_SIZES.length - 1]];
+        static {
+            for (int i = 0; i < TITLES.length; i++)
+                TITLES[i] = "Item " + i;
+        }
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /** Keeps rendered output reachable, so JIT does not drop it */
+    private static long sink;
+
+    public static void main(String[] args) {
+        int warmupRounds = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        int measuredRounds = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+
+        for (int round = 0; round < warmupRounds; round++)
+            for (int size : CART_SIZES)
+                measure(size);
+
+        System.out.println("lines  addItem ns/line  toString ns/line  worst addItem bytes  worst ArrayList.add bytes");
+        for (int size : CART_SIZES) {
+            long[] fill = new long[measuredRounds];
+            long[] render = new long[measuredRounds];
+            for (int round = 0; round < measuredRounds; round++) {
+                long[] result = measure(size);
+                fill[round] = result[0];
+                render[round] = result[1];
+            }
+            System.out.printf(
+                "%5d  %15.1f  %16.1f  %19d  %25d%n",
+                size,
+                (double) median(fill) / size,
+                (double) median(render) / size,
+                worstCartAddBytes(size),
+                worstArrayListAddBytes(size)
+            );
+        }
+
+        System.out.println();
+        System.out.println("lines  output chars  presize chars  toString bytes  toString bytes/char");
+        for (int size : CART_SIZES) {
+            ShoppingCart cart = newCart(size);
+            for (int i = 0; i < size; i++)
+                addItem(cart, i);
+            long threadId = Thread.currentThread().getId();
+            long before = THREADS.getThreadAllocatedBytes(threadId);
+            String rendered = cart.toString();
+            long renderBytes = THREADS.getThreadAllocatedBytes(threadId) - before;
+            System.out.printf(
+                "%5d  %12d  %13d  %14d  %19.1f%n",
+                size,
+                rendered.length(),
+                cart.renderCapacity(),
+                renderBytes,
+                (double) renderBytes / rendered.length()
+            );
+        }
+        if (sink == 0)
+            System.out.println("Nothing rendered");
+    }
+
+    /**
+     * Fills and renders one cart.
+     *
+     * @return fill time and render time in nanoseconds
+     */
+    private static long[] measure(int size) {
+        ShoppingCart cart = newCart(size);
+        long fillStart = System.nanoTime();
+        for (int i = 0; i < size; i++)
+            addItem(cart, i);
+        long renderStart = System.nanoTime();
+        sink += cart.toString().length();
+        long renderEnd = System.nanoTime();
+        return new long[] {renderStart - fillStart, renderEnd - renderStart};
+    }
+
+    /**
+     * Bytes allocated by the most expensive addItem while filling one cart.
+     */
+    private static long worstCartAddBytes(int size) {
+        ShoppingCart cart = newCart(size);
+        long threadId = Thread.currentThread().getId();
+        long worst = 0;
+        for (int i = 0; i < size; i++) {
+            long before = THREADS.getThreadAllocatedBytes(threadId);
+            addItem(cart, i);
+            worst = Math.max(worst, THREADS.getThreadAllocatedBytes(threadId) - before);
+        }
+        return worst;
+    }
+
+    /**
+     * Bytes allocated by the most expensive add of an equal item to a default-capacity ArrayList.
+     */
+    private static long worstArrayListAddBytes(int size) {
+        List<Item> items = new ArrayList<>();
+        Item.Type[] types = Item.Type.values();
+        long threadId = Thread.currentThread().getId();
+        long worst = 0;
+        for (int i = 0; i < size; i++) {
+            long before = THREADS.getThreadAllocatedBytes(threadId);
+            items.add(new Item(TITLES[i], 1 + i % 900, 1 + i % 1000, types[i % types.length]));
+            worst = Math.max(worst, THREADS.getThreadAllocatedBytes(threadId) - before);
+        }
+        sink += items.size();
+        return worst;
+    }
+
+    private static ShoppingCart newCart(int size) {
+        return new ShoppingCart(new CartLimits(size, 32, 0.01, 1000.00, 1000));
+    }
+
+    private static void addItem(ShoppingCart cart, int i) {
+        Item.Type[] types = Item.Type.values();
+        cart.addItem(TITLES[i], 1 + i % 900, 1 + i % 1000, types[i % types.length]);
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
@@ -1,8 +1,12 @@
 package birintsev;
 
 import org.junit.jupiter.api.Test;
+import java.util.Random;
+import static birintsev.RandomTestDataUtils.SEED_MESSAGE;
 import static birintsev.RandomTestDataUtils.randomInt;
 import static birintsev.RandomTestDataUtils.randomValidItem;
+import static birintsev.RandomTestDataUtils.seededRandom;
+import static birintsev.ReferenceTestUtils.referenceDiscount;
 import static birintsev.ShoppingCart.calculateDiscount;
 import static birintsev.TestConstants.BULK_DISCOUNT;
 import static birintsev.TestConstants.MAX_TOTAL_DISCOUNT;
@@ -10,6 +14,8 @@ import static birintsev.TestConstants.TYPE_DISCOUNT_BULK_DISCOUNT;
 import static birintsev.TestConstants.TYPE_DISCOUNT_BUY_TO_GET_TYPE_DISCOUNT_BULK_DISCOUNT;
 import static birintsev.TestConstants.TYPE_DISCOUNT_DISCOUNT;
 import static birintsev.TestConstants.ITEMS_BUY_TO_GET_BULK_DISCOUNT;
+import static birintsev.TestConstants.ITEM_QUANTITY_VALID_MAX;
+import static birintsev.TestConstants.ITEM_QUANTITY_VALID_MIN;
 import static birintsev.TestConstants.TYPE_DISCOUNT_MAX_DISCOUNT;
 import static birintsev.TestConstants.TYPE_REGULAR_DISCOUNT;
 import static birintsev.TestConstants.TYPE_SALE_DISCOUNT;
@@ -18,45 +24,48 @@ import static com.google.common.truth.Truth.assertWithMessage;
 
 public class ShoppingCartCalculateDiscountTest {
 
+    private final Random random = seededRandom();
+
     @Test
     void calculateDiscount_regularItemNoDiscount() {
-        Item item = randomValidItem();
+        Item item = randomValidItem(random);
         item.setQuantity(1);
         item.setType(Item.Type.REGULAR);
 
         int discount = calculateDiscount(item);
 
-        assertWithMessage("Regular items do not have discount.")
+        assertWithMessage("Regular items do not have discount. (%s)", SEED_MESSAGE)
             .that(discount)
             .isEqualTo(TYPE_REGULAR_DISCOUNT);
     }
 
     @Test
     void calculateDiscount_secondItems() {
-        Item item = randomValidItem();
+        Item item = randomValidItem(random);
         item.setType(Item.Type.SECOND);
         item.setQuantity(quantityWithoutBulkDiscount());
 
         int discount = calculateDiscount(item);
 
-        assertWithMessage("%s items should have %s% discount.", Item.Type.SECOND, TYPE_SECOND_DISCOUNT)
+        assertWithMessage("%s items should have %s% discount. (%s)", Item.Type.SECOND, TYPE_SECOND_DISCOUNT, SEED_MESSAGE)
             .that(discount)
             .isEqualTo(TYPE_SECOND_DISCOUNT);
     }
 
     @Test
     void calculateDiscount_discountItemsWithoutDiscount() {
-        Item item = randomValidItem();
+        Item item = randomValidItem(random);
         item.setType(Item.Type.DISCOUNT);
         item.setQuantity(quantityItemsOfDiscountTypeWithoutDiscounts());
 
         int discount = calculateDiscount(item);
 
         assertWithMessage(
-            "%s items of quantity %s should have %s discount",
+            "%s items of quantity %s should have %s discount (%s)",
                 Item.Type.DISCOUNT,
                 item.getQuantity(),
-            TYPE_DISCOUNT_DISCOUNT
+            TYPE_DISCOUNT_DISCOUNT,
+            SEED_MESSAGE
         )
             .that(discount)
             .isEqualTo(TYPE_DISCOUNT_DISCOUNT);
@@ -64,17 +73,18 @@ public class ShoppingCartCalculateDiscountTest {
 
     @Test
     void calculateDiscount_discountItemsWithDiscount() {
-        Item item = randomValidItem();
+        Item item = randomValidItem(random);
         item.setType(Item.Type.DISCOUNT);
         item.setQuantity(TYPE_DISCOUNT_BUY_TO_GET_TYPE_DISCOUNT_BULK_DISCOUNT);
 
         int discount = calculateDiscount(item);
 
         assertWithMessage(
-            "%s items of quantity %s should have %s discount",
+            "%s items of quantity %s should have %s discount (%s)",
             Item.Type.DISCOUNT,
             item.getQuantity(),
-            TYPE_DISCOUNT_DISCOUNT
+            TYPE_DISCOUNT_DISCOUNT,
+            SEED_MESSAGE
         )
             .that(discount)
             .isEqualTo(TYPE_DISCOUNT_DISCOUNT + TYPE_DISCOUNT_BULK_DISCOUNT);
@@ -82,7 +92,7 @@ public class ShoppingCartCalculateDiscountTest {
 
     @Test
     void calculateDiscount_discountItemsWithAlmostNextDiscount() {
-        Item item = randomValidItem();
+        Item item = randomValidItem(random);
         item.setType(Item.Type.DISCOUNT);
         item.setQuantity(quantityItemsOfDiscountTypeWithAlmostNextDiscount());
 
@@ -91,10 +101,11 @@ public class ShoppingCartCalculateDiscountTest {
             + (item.getQuantity() / TYPE_DISCOUNT_BUY_TO_GET_TYPE_DISCOUNT_BULK_DISCOUNT) * TYPE_DISCOUNT_BULK_DISCOUNT;
 
         assertWithMessage(
-            "%s items of quantity %s should have %s discount",
+            "%s items of quantity %s should have %s discount (%s)",
             Item.Type.DISCOUNT,
             item.getQuantity(),
-            expectedDiscount
+            expectedDiscount,
+            SEED_MESSAGE
         )
             .that(discount)
             .isEqualTo(expectedDiscount);
@@ -102,17 +113,18 @@ public class ShoppingCartCalculateDiscountTest {
 
     @Test
     void calculateDiscount_discountItemsWithDiscountOverflow() {
-        Item item = randomValidItem();
+        Item item = randomValidItem(random);
         item.setType(Item.Type.DISCOUNT);
         item.setQuantity(typeDiscountItemsNumberToGetDiscountOverflow());
 
         int discount = calculateDiscount(item);
 
         assertWithMessage(
-            "%s items of quantity %s should have %s discount",
+            "%s items of quantity %s should have %s discount (%s)",
             Item.Type.DISCOUNT,
             item.getQuantity(),
-            TYPE_DISCOUNT_MAX_DISCOUNT
+            TYPE_DISCOUNT_MAX_DISCOUNT,
+            SEED_MESSAGE
         )
             .that(discount)
             .isEqualTo(TYPE_DISCOUNT_MAX_DISCOUNT);
@@ -120,16 +132,17 @@ public class ShoppingCartCalculateDiscountTest {
 
     @Test
     void calculateDiscount_saleItems() {
-        Item item = randomValidItem();
+        Item item = randomValidItem(random);
         item.setType(Item.Type.SALE);
 
         int discount = calculateDiscount(item);
 
         assertWithMessage(
-            "%s items of quantity %s should have %s discount",
+            "%s items of quantity %s should have %s discount (%s)",
             Item.Type.SALE,
             item.getQuantity(),
-            discountForItemsSale()
+            discountForItemsSale(),
+            SEED_MESSAGE
         )
             .that(discount)
             .isEqualTo(discountForItemsSale());
@@ -138,7 +151,7 @@ public class ShoppingCartCalculateDiscountTest {
     @Test
     void calculateDiscount_bulkDiscountTypeRegular() {
         final int quantity = (int) (2.5 * ITEMS_BUY_TO_GET_BULK_DISCOUNT);
-        Item item = randomValidItem();
+        Item item = randomValidItem(random);
         item.setType(Item.Type.REGULAR);
         item.setQuantity(quantity);
 
@@ -149,10 +162,11 @@ public class ShoppingCartCalculateDiscountTest {
         );
 
         assertWithMessage(
-            "%s items of quantity %s should have %s discount",
+            "%s items of quantity %s should have %s discount (%s)",
             Item.Type.REGULAR,
             item.getQuantity(),
-            TYPE_DISCOUNT_DISCOUNT
+            TYPE_DISCOUNT_DISCOUNT,
+            SEED_MESSAGE
         )
             .that(discount)
             .isEqualTo(expectedDiscount);
@@ -161,7 +175,7 @@ public class ShoppingCartCalculateDiscountTest {
     @Test
     void calculateDiscount_bulkDiscountTypeSecond() {
         final int quantity = (int) (3.85 * ITEMS_BUY_TO_GET_BULK_DISCOUNT);
-        Item item = randomValidItem();
+        Item item = randomValidItem(random);
         item.setType(Item.Type.SECOND);
         item.setQuantity(quantity);
 
@@ -172,10 +186,11 @@ public class ShoppingCartCalculateDiscountTest {
         );
 
         assertWithMessage(
-            "%s items of quantity %s should have %s discount",
+            "%s items of quantity %s should have %s discount (%s)",
             Item.Type.SECOND,
             item.getQuantity(),
-            expectedDiscount
+            expectedDiscount,
+            SEED_MESSAGE
         )
             .that(discount)
             .isEqualTo(expectedDiscount);
@@ -184,7 +199,7 @@ public class ShoppingCartCalculateDiscountTest {
     @Test
     void calculateDiscount_bulkDiscountTypeDiscount() {
         final int quantity = (int) (1.05 * ITEMS_BUY_TO_GET_BULK_DISCOUNT);
-        Item item = randomValidItem();
+        Item item = randomValidItem(random);
         item.setType(Item.Type.DISCOUNT);
         item.setQuantity(quantity);
 
@@ -195,29 +210,46 @@ public class ShoppingCartCalculateDiscountTest {
         );
 
         assertWithMessage(
-            "%s items of quantity %s should have %s discount",
+            "%s items of quantity %s should have %s discount (%s)",
             Item.Type.DISCOUNT,
             item.getQuantity(),
-            expectedDiscount
+            expectedDiscount,
+            SEED_MESSAGE
         )
             .that(discount)
             .isEqualTo(expectedDiscount);
     }
 
+    @Test
+    void calculateDiscount_allTypesAndQuantitiesMatchReference() {
+        Item item = randomValidItem(random);
+        for (Item.Type type : Item.Type.values()) {
+            for (int quantity = ITEM_QUANTITY_VALID_MIN; quantity <= ITEM_QUANTITY_VALID_MAX; quantity++) {
+                item.setType(type);
+                item.setQuantity(quantity);
+
+                assertWithMessage("%s items of quantity %s (%s)", type, quantity, SEED_MESSAGE)
+                    .that(calculateDiscount(item))
+                    .isEqualTo(referenceDiscount(item));
+            }
+        }
+    }
+
     private int discountForItemsSale() {
         return Math.min(TYPE_SALE_DISCOUNT, MAX_TOTAL_DISCOUNT);
     }
 
     private int quantityWithoutBulkDiscount() {
-        return randomInt(2, ITEMS_BUY_TO_GET_BULK_DISCOUNT);
+        return randomInt(random, 2, ITEMS_BUY_TO_GET_BULK_DISCOUNT);
     }
 
     private int quantityItemsOfDiscountTypeWithoutDiscounts() {
-        return randomInt(1, TYPE_DISCOUNT_BUY_TO_GET_TYPE_DISCOUNT_BULK_DISCOUNT);
+        return randomInt(random, 1, TYPE_DISCOUNT_BUY_TO_GET_TYPE_DISCOUNT_BULK_DISCOUNT);
     }
 
     private int quantityItemsOfDiscountTypeWithAlmostNextDiscount() {
         return randomInt(
+            random,
             TYPE_DISCOUNT_BUY_TO_GET_TYPE_DISCOUNT_BULK_DISCOUNT + 1,
             2 * TYPE_DISCOUNT_BUY_TO_GET_TYPE_DISCOUNT_BULK_DISCOUNT
         );
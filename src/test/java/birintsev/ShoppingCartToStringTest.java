@@ -0,0 +1,171 @@
+package birintsev;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import static birintsev.RandomTestDataUtils.SEED_MESSAGE;
+import static birintsev.RandomTestDataUtils.quantityTierBoundaries;
+import static birintsev.RandomTestDataUtils.randomQuantityTierBoundary;
+import static birintsev.RandomTestDataUtils.randomDouble;
+import static birintsev.RandomTestDataUtils.randomInt;
+import static birintsev.RandomTestDataUtils.randomStringOfLength;
+import static birintsev.RandomTestDataUtils.randomValidItem;
+import static birintsev.RandomTestDataUtils.randomValidItemTitle;
+import static birintsev.RandomTestDataUtils.randomValidItems;
+import static birintsev.RandomTestDataUtils.seededRandom;
+import static birintsev.ReferenceTestUtils.referenceDiscount;
+import static birintsev.ReferenceTestUtils.referenceToString;
+import static birintsev.TestConstants.CART_CAPACITY_VALID_MAX;
+import static birintsev.TestConstants.ITEM_TITLE_LENGTH_VALID_MAX;
+import static birintsev.TestConstants.LARGE_CART_LIMITS;
+import static birintsev.TestConstants.WIDE_CART_LIMITS;
+import static com.google.common.truth.Truth.assertWithMessage;
+
+/**
+ * Compares {@link ShoppingCart#toString()} with a reference rendering on generated carts.
+ */
+class ShoppingCartToStringTest {
+
+    private static final int GENERATED_CARTS = 2_000;
+
+    /** Discount column is "     DD%" with discount and " -" without */
+    private static final int DISCOUNT_COLUMN_EXTRA_WIDTH = 6;
+
+    private final Random random = seededRandom();
+
+    @Test
+    void toString_emptyCart() {
+        assertWithMessage("Empty cart should be rendered as no items.")
+            .that(new ShoppingCart().toString())
+            .isEqualTo("No items.");
+    }
+
+    @Test
+    void toString_generatedCartsMatchReference() {
+        for (int cart = 0; cart < GENERATED_CARTS; cart++) {
+            List<Item> items = randomValidItems(random, 1 + random.nextInt(CART_CAPACITY_VALID_MAX));
+            items.stream()
+                .filter(item -> random.nextBoolean())
+                .forEach(item -> item.setQuantity(randomQuantityTierBoundary(random)));
+            assertMatchesReference(CartLimits.DEFAULT, items, cart);
+        }
+    }
+
+    @Test
+    void toString_fullCartsMatchReference() {
+        for (int cart = 0; cart < GENERATED_CARTS / 10; cart++)
+            assertMatchesReference(CartLimits.DEFAULT, randomValidItems(random, CART_CAPACITY_VALID_MAX), cart);
+    }
+
+    @Test
+    void toString_allTitleLengthsMatchReference() {
+        List<Item> items = new ArrayList<>();
+        for (int length = 1; length <= ITEM_TITLE_LENGTH_VALID_MAX; length++) {
+            Item item = randomValidItem(random);
+            item.setTitle(randomStringOfLength(random, length));
+            items.add(item);
+        }
+        assertMatchesReference(CartLimits.DEFAULT, items, 0);
+    }
+
+    @Test
+    void toString_quantityTierBoundariesMatchReference() {
+        for (Item.Type type : Item.Type.values()) {
+            List<Item> items = new ArrayList<>();
+            for (int quantity : quantityTierBoundaries()) {
+                Item item = randomValidItem(random);
+                item.setQuantity(quantity);
+                item.setType(type);
+                items.add(item);
+            }
+            assertMatchesReference(CartLimits.DEFAULT, items, type.ordinal());
+        }
+    }
+
+    @Test
+    void toString_largeCartMatchesReference() {
+        assertMatchesReference(LARGE_CART_LIMITS, randomValidItems(random, LARGE_CART_LIMITS.getMaxItems()), 0);
+    }
+
+    @Test
+    void toString_wideLimitsCartMatchesReference() {
+        assertMatchesReference(WIDE_CART_LIMITS, randomWideItems(WIDE_CART_LIMITS.getMaxItems()), 0);
+    }
+
+    @Test
+    void toString_largeCartLinesAligned() {
+        assertLinesAligned(LARGE_CART_LIMITS, randomValidItems(random, LARGE_CART_LIMITS.getMaxItems()));
+    }
+
+    @Test
+    void toString_wideLimitsCartLinesAligned() {
+        assertLinesAligned(WIDE_CART_LIMITS, randomWideItems(WIDE_CART_LIMITS.getMaxItems()));
+    }
+
+    @Test
+    void toString_fitsRenderCapacity() {
+        for (CartLimits limits : new CartLimits[] {CartLimits.DEFAULT, LARGE_CART_LIMITS, WIDE_CART_LIMITS}) {
+            ShoppingCart cart = new ShoppingCart(limits);
+            for (int i = 0; i < limits.getMaxItems(); i++)
+                cart.addItem(
+                    randomValidItemTitle(random),
+                    Math.nextDown(limits.getMaxPrice()),
+                    limits.getMaxQuantity(),
+                    Item.Type.REGULAR
+                );
+
+            assertWithMessage("Cart of %s items with %s", limits.getMaxItems(), limits)
+                .that(cart.toString().length())
+                .isAtMost(cart.renderCapacity());
+        }
+    }
+
+    /**
+     * Items with prices and quantities up to given wide limits.
+     */
+    private List<Item> randomWideItems(int count) {
+        List<Item> items = randomValidItems(random, count);
+        for (Item item : items) {
+            item.setPrice(randomDouble(random, WIDE_CART_LIMITS.getMinPrice(), WIDE_CART_LIMITS.getMaxPrice()));
+            item.setQuantity(randomInt(random, 1, WIDE_CART_LIMITS.getMaxQuantity() + 1));
+        }
+        return items;
+    }
+
+    private static void assertMatchesReference(CartLimits limits, List<Item> items, int cartIndex) {
+        assertWithMessage("Cart %s of %s items (%s)", cartIndex, items.size(), SEED_MESSAGE)
+            .that(filledCart(limits, items).toString())
+            .isEqualTo(referenceToString(items, limits));
+    }
+
+    /**
+     * Checks that line numbers are right aligned in one column,
+     * and item lines with and without discount have the same length.
+     */
+    private static void assertLinesAligned(CartLimits limits, List<Item> items) {
+        // whole cent prices are never rounded up to the next column width
+        items.forEach(item -> item.setPrice(Math.max(limits.getMinPrice(), Math.floor(item.getPrice() * 100) / 100)));
+        String[] lines = filledCart(limits, items).toString().split("\n");
+        int numberWidth = String.valueOf(limits.getMaxItems()).length();
+        Set<Integer> lengths = new HashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            String line = lines[i + 2];
+            assertWithMessage("Line %s (%s)", i + 1, SEED_MESSAGE)
+                .that(line.substring(0, numberWidth + 1))
+                .isEqualTo(String.format("%" + numberWidth + "d ", i + 1));
+            lengths.add(line.length() - (referenceDiscount(items.get(i)) == 0 ? 0 : DISCOUNT_COLUMN_EXTRA_WIDTH));
+        }
+        assertWithMessage("Item line lengths, not counting discount column (%s)", SEED_MESSAGE)
+            .that(lengths)
+            .hasSize(1);
+    }
+
+    private static ShoppingCart filledCart(CartLimits limits, List<Item> items) {
+        ShoppingCart cart = new ShoppingCart(limits);
+        items.forEach(item -> cart.addItem(item.getTitle(), item.getPrice(), item.getQuantity(), item.getType()));
+        return cart;
+    }
+}
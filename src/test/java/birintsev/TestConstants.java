@@ -18,6 +18,8 @@ class TestConstants {
 
     static final int CART_CAPACITY_VALID_MAX = 99;
 
+    static final int LARGE_CART_CAPACITY_VALID_MAX = 10_000;
+
     static final int ITEMS_BUY_TO_GET_BULK_DISCOUNT = 100;
 
     static final int TYPE_DISCOUNT_BUY_TO_GET_TYPE_DISCOUNT_BULK_DISCOUNT = 10;
@@ -38,6 +40,22 @@ class TestConstants {
 
     static final int BULK_DISCOUNT = 10;
 
+    static final CartLimits LARGE_CART_LIMITS = new CartLimits(
+        LARGE_CART_CAPACITY_VALID_MAX,
+        ITEM_TITLE_LENGTH_VALID_MAX,
+        ITEM_PRICE_VALID_MIN,
+        ITEM_PRICE_INVALID_MIN,
+        ITEM_QUANTITY_VALID_MAX
+    );
+
+    static final CartLimits WIDE_CART_LIMITS = new CartLimits(
+        1_000,
+        ITEM_TITLE_LENGTH_VALID_MAX,
+        ITEM_PRICE_VALID_MIN,
+        100_000.00,
+        100_000
+    );
+
     private TestConstants() {
         // This class is not expected to be instantiated.
     }